@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class AdaptiveRangeReadBench_jmhType extends AdaptiveRangeReadBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BTreeBuildBench_jmhType extends BTreeBuildBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CIDRAuthorizerBench_jmhType extends CIDRAuthorizerBench_jmhType_B3 {
+}
+
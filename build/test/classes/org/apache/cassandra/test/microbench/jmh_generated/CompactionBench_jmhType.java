@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CompactionBench_jmhType extends CompactionBench_jmhType_B3 {
+}
+
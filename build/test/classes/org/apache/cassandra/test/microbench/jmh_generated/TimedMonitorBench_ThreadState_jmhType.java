@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class TimedMonitorBench_ThreadState_jmhType extends TimedMonitorBench_ThreadState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class TlsWrapBench_jmhType extends TlsWrapBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ViewWriteBench_jmhType extends ViewWriteBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class FilteredVectorSearchBench_jmhType extends FilteredVectorSearchBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class IndexedWriteBench_jmhType extends IndexedWriteBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class VectorCompactionBench_jmhType extends VectorCompactionBench_jmhType_B3 {
+}
+
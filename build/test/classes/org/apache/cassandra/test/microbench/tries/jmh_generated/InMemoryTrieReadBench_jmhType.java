@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.tries.jmh_generated;
+public class InMemoryTrieReadBench_jmhType extends InMemoryTrieReadBench_jmhType_B3 {
+}
+
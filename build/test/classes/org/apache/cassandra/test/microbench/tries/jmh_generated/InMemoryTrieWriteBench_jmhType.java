@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.tries.jmh_generated;
+public class InMemoryTrieWriteBench_jmhType extends InMemoryTrieWriteBench_jmhType_B3 {
+}
+